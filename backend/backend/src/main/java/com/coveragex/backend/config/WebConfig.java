@@ -0,0 +1,19 @@
+package com.coveragex.backend.config;
+
+import com.coveragex.backend.monitoring.TaskRequestInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final TaskRequestInterceptor taskRequestInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(taskRequestInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -1,13 +1,16 @@
 package com.coveragex.backend.controller;
 
 import com.coveragex.backend.service.TaskService;
+import com.coveragex.backend.dto.LabelMatch;
 import com.coveragex.backend.dto.Task;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,9 +32,28 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    @PutMapping("/tasks/{id}/labels")
+    public Task relabel(@PathVariable Long id, @RequestBody Set<String> labels) {
+        return taskService.relabel(id, labels);
+    }
+
     @GetMapping("/tasks")
-    public List<Task> latestFive() {
-        return taskService.getLatestFive();
+    public List<Task> latestFive(@RequestParam(required = false) Set<String> labels,
+                                 @RequestParam(defaultValue = "all") String match) {
+        LabelMatch labelMatch = parseMatch(match);
+        if (labels == null) {
+            return taskService.getLatestFive();
+        }
+        return taskService.getLatestFiveByLabels(labels, labelMatch);
+    }
+
+    private static LabelMatch parseMatch(String match) {
+        for (LabelMatch m : LabelMatch.values()) {
+            if (m.name().equalsIgnoreCase(match)) {
+                return m;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "match must be 'all' or 'any'");
     }
 
 }
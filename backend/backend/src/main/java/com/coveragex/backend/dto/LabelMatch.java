@@ -0,0 +1,6 @@
+package com.coveragex.backend.dto;
+
+public enum LabelMatch {
+    ALL,
+    ANY
+}
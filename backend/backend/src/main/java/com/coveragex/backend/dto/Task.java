@@ -6,6 +6,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import lombok.*;
 
+import java.util.HashSet;
+import java.util.Set;
+
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -19,4 +22,6 @@ public class Task {
     private String description;
 
     private Boolean completed = false;
+
+    private Set<String> labels = new HashSet<>();
 }
@@ -1,8 +1,11 @@
 package com.coveragex.backend.entity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "task")
@@ -27,5 +30,15 @@ public class TaskEntity {
 
     private LocalDateTime createdAt;
 
+    @Version
+    @Column(columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
+    @ElementCollection
+    @BatchSize(size = 16)
+    @ToString.Exclude
+    @CollectionTable(name = "task_label", joinColumns = @JoinColumn(name = "task_id"))
+    @Column(name = "label", nullable = false)
+    private Set<String> labels = new HashSet<>();
 
 }
@@ -0,0 +1,113 @@
+package com.coveragex.backend.monitoring;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarises the task events in a JFR recording into per-phase latency breakdowns.
+ * Only uses JDK classes, so it runs straight off the compiled classes:
+ * <pre>java -cp target/classes com.coveragex.backend.monitoring.JfrSummary recording.jfr</pre>
+ */
+public class JfrSummary {
+
+    static final List<String> PHASES = List.of(
+            TaskRequestEvent.NAME,
+            TaskQueryEvent.NAME,
+            TaskMappingEvent.NAME,
+            TaskSerializationEvent.NAME);
+
+    public record PhaseStats(String phase, int count, double avgMs, double p50Ms, double p95Ms, double p99Ms,
+                             double maxMs, double totalMs, double avgItems) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrSummary <recording.jfr>");
+            System.exit(1);
+        }
+        print(summarise(Path.of(args[0])), System.out);
+    }
+
+    public static Map<String, PhaseStats> summarise(Path recording) throws IOException {
+        Map<String, List<Long>> durations = new LinkedHashMap<>();
+        Map<String, Long> items = new LinkedHashMap<>();
+        PHASES.forEach(phase -> {
+            durations.put(phase, new ArrayList<>());
+            items.put(phase, 0L);
+        });
+
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String phase = event.getEventType().getName();
+                List<Long> phaseDurations = durations.get(phase);
+                if (phaseDurations == null) {
+                    continue;
+                }
+                phaseDurations.add(event.getDuration().toNanos());
+                items.merge(phase, itemCount(event), Long::sum);
+            }
+        }
+
+        Map<String, PhaseStats> summary = new LinkedHashMap<>();
+        durations.forEach((phase, nanos) -> summary.put(phase, stats(phase, nanos, items.get(phase))));
+        return summary;
+    }
+
+    public static void print(Map<String, PhaseStats> summary, PrintStream out) {
+        double requestTotal = summary.get(TaskRequestEvent.NAME).totalMs();
+        out.printf("%-34s %7s %9s %9s %9s %9s %9s %9s %7s%n",
+                "phase", "count", "avg ms", "p50 ms", "p95 ms", "p99 ms", "max ms", "items", "share");
+        for (PhaseStats s : summary.values()) {
+            String share = requestTotal > 0 ? String.format("%.1f%%", 100 * s.totalMs() / requestTotal) : "-";
+            out.printf("%-34s %7d %9.3f %9.3f %9.3f %9.3f %9.3f %9.1f %7s%n",
+                    s.phase(), s.count(), s.avgMs(), s.p50Ms(), s.p95Ms(), s.p99Ms(), s.maxMs(), s.avgItems(), share);
+        }
+    }
+
+    private static long itemCount(RecordedEvent event) {
+        if (event.hasField("rowCount")) {
+            return event.getInt("rowCount");
+        }
+        if (event.hasField("taskCount")) {
+            return event.getInt("taskCount");
+        }
+        return 0;
+    }
+
+    private static PhaseStats stats(String phase, List<Long> nanos, long items) {
+        if (nanos.isEmpty()) {
+            return new PhaseStats(phase, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        long total = 0;
+        for (long n : sorted) {
+            total += n;
+        }
+        return new PhaseStats(phase, sorted.length,
+                millis(total) / sorted.length,
+                millis(percentile(sorted, 50)),
+                millis(percentile(sorted, 95)),
+                millis(percentile(sorted, 99)),
+                millis(sorted[sorted.length - 1]),
+                millis(total),
+                (double) items / sorted.length);
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
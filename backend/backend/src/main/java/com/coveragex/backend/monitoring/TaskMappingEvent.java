@@ -0,0 +1,23 @@
+package com.coveragex.backend.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name(TaskMappingEvent.NAME)
+@Label("Task Mapping")
+@Category({"Day Note", "Tasks"})
+@Description("ModelMapper conversion between TaskEntity and the Task DTO")
+@Setter
+public class TaskMappingEvent extends Event {
+    public static final String NAME = "com.coveragex.TaskMapping";
+
+    @Label("Direction")
+    private String direction;
+
+    @Label("Task Count")
+    private int taskCount;
+}
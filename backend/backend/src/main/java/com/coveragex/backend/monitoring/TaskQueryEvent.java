@@ -0,0 +1,23 @@
+package com.coveragex.backend.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name(TaskQueryEvent.NAME)
+@Label("Task Query")
+@Category({"Day Note", "Tasks"})
+@Description("Database query issued through TaskRepository")
+@Setter
+public class TaskQueryEvent extends Event {
+    public static final String NAME = "com.coveragex.TaskQuery";
+
+    @Label("Query")
+    private String query;
+
+    @Label("Row Count")
+    private int rowCount;
+}
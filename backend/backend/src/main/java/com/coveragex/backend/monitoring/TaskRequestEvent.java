@@ -0,0 +1,29 @@
+package com.coveragex.backend.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name(TaskRequestEvent.NAME)
+@Label("Task Request")
+@Category({"Day Note", "Tasks"})
+@Description("Handling of an /api request, from dispatch to the written response")
+@Setter
+public class TaskRequestEvent extends Event {
+    public static final String NAME = "com.coveragex.TaskRequest";
+
+    @Label("Method")
+    private String method;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Status")
+    private int status;
+
+    @Label("Task Count")
+    private int taskCount;
+}
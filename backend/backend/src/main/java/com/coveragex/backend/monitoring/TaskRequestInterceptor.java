@@ -0,0 +1,48 @@
+package com.coveragex.backend.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Records a {@link TaskRequestEvent} around each API request and closes the
+ * {@link TaskSerializationEvent} opened by {@link TaskSerializationAdvice}.
+ * Both events are only populated when a JFR recording has them enabled.
+ */
+@Component
+public class TaskRequestInterceptor implements HandlerInterceptor {
+
+    static final String REQUEST_EVENT = TaskRequestInterceptor.class.getName() + ".request";
+    static final String SERIALIZATION_EVENT = TaskRequestInterceptor.class.getName() + ".serialization";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        TaskRequestEvent event = new TaskRequestEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            request.setAttribute(REQUEST_EVENT, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(SERIALIZATION_EVENT) instanceof TaskSerializationEvent serialization) {
+            serialization.end();
+            if (serialization.shouldCommit()) {
+                serialization.commit();
+            }
+        }
+
+        if (request.getAttribute(REQUEST_EVENT) instanceof TaskRequestEvent event) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setMethod(request.getMethod());
+                event.setPath(request.getRequestURI());
+                event.setStatus(response.getStatus());
+                event.commit();
+            }
+        }
+    }
+}
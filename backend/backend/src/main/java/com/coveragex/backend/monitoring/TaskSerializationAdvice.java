@@ -0,0 +1,52 @@
+package com.coveragex.backend.monitoring;
+
+import com.coveragex.backend.controller.TaskController;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Collection;
+
+/**
+ * Opens a {@link TaskSerializationEvent} right before the message converter
+ * writes a {@link TaskController} response body; {@link TaskRequestInterceptor}
+ * ends it once the response is complete.
+ */
+@ControllerAdvice(assignableTypes = TaskController.class)
+public class TaskSerializationAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        int taskCount = body instanceof Collection<?> tasks ? tasks.size() : body != null ? 1 : 0;
+
+        if (httpRequest.getAttribute(TaskRequestInterceptor.REQUEST_EVENT) instanceof TaskRequestEvent requestEvent) {
+            requestEvent.setTaskCount(taskCount);
+        }
+
+        TaskSerializationEvent event = new TaskSerializationEvent();
+        if (event.isEnabled()) {
+            event.setBodyType(body != null ? body.getClass().getSimpleName() : "none");
+            event.setTaskCount(taskCount);
+            httpRequest.setAttribute(TaskRequestInterceptor.SERIALIZATION_EVENT, event);
+            event.begin();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,23 @@
+package com.coveragex.backend.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name(TaskSerializationEvent.NAME)
+@Label("Task Serialization")
+@Category({"Day Note", "Tasks"})
+@Description("JSON serialization of an /api response body")
+@Setter
+public class TaskSerializationEvent extends Event {
+    public static final String NAME = "com.coveragex.TaskSerialization";
+
+    @Label("Body Type")
+    private String bodyType;
+
+    @Label("Task Count")
+    private int taskCount;
+}
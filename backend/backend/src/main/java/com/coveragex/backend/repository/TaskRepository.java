@@ -1,14 +1,30 @@
 package com.coveragex.backend.repository;
 
 import com.coveragex.backend.entity.TaskEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
-    @Query("SELECT t FROM TaskEntity t WHERE t.completed = false ORDER BY t.createdAt DESC")
-    List<TaskEntity> findTop5ByCreated();
+    List<TaskEntity> findTop5ByCompletedFalseOrderByCreatedAtDesc();
+
+    @EntityGraph(attributePaths = "labels")
+    @Query("SELECT t FROM TaskEntity t WHERE t.id IN :ids AND t.completed = false " +
+            "AND (SELECT COUNT(l) FROM TaskEntity m JOIN m.labels l WHERE m.id = t.id AND l IN :labels) >= :required " +
+            "ORDER BY t.createdAt DESC")
+    List<TaskEntity> findOpenByIdInWithLabels(@Param("ids") Collection<Long> ids,
+                                              @Param("labels") Collection<String> labels,
+                                              @Param("required") long required);
+
+    @EntityGraph(attributePaths = "labels")
+    List<TaskEntity> findByCompletedFalse();
+
+    @EntityGraph(attributePaths = "labels")
+    List<TaskEntity> findByIdIn(Collection<Long> ids);
 }
 
 
@@ -0,0 +1,163 @@
+package com.coveragex.backend.service;
+
+import com.coveragex.backend.entity.TaskEntity;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of open tasks per label, one compressed bitmap of task IDs per label.
+ * Label filters on the open feed are answered with bitmap AND/OR here, so only the
+ * final page of rows has to be loaded from the database. Completed tasks are dropped
+ * from the index; the database stays the source of truth.
+ * <p>
+ * Each indexed or removed task remembers the entity version its state came from, so a
+ * late update carrying an older version cannot overwrite a newer one.
+ */
+@Component
+public class TaskLabelIndex {
+
+    private final Map<String, Roaring64Bitmap> bitmaps = new HashMap<>();
+    private final Map<Long, Long> versions = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public static Set<String> normalize(Collection<String> labels) {
+        Set<String> normalized = new TreeSet<>();
+        if (labels == null) {
+            return normalized;
+        }
+        for (String label : labels) {
+            if (label != null && !label.isBlank()) {
+                normalized.add(label.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return normalized;
+    }
+
+    public static long versionOf(TaskEntity task) {
+        return task.getVersion() != null ? task.getVersion() : 0L;
+    }
+
+    /**
+     * Indexes an open task under exactly the given labels, unless the index already
+     * holds a newer version of it.
+     */
+    public void put(long taskId, long version, Collection<String> labels) {
+        lock.writeLock().lock();
+        try {
+            Long current = versions.get(taskId);
+            if (current != null && current > version) {
+                return;
+            }
+            versions.put(taskId, version);
+            bitmaps.entrySet().removeIf(entry -> {
+                if (!labels.contains(entry.getKey())) {
+                    entry.getValue().removeLong(taskId);
+                }
+                return entry.getValue().isEmpty();
+            });
+            for (String label : labels) {
+                bitmaps.computeIfAbsent(label, l -> new Roaring64Bitmap()).addLong(taskId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops a completed or deleted task from every label. Its version stays behind as a
+     * tombstone, so a late {@link #put} carrying an older version cannot re-add it; the
+     * tombstones are cleared by {@link #rebuild}.
+     */
+    public void remove(long taskId, long version) {
+        lock.writeLock().lock();
+        try {
+            Long current = versions.get(taskId);
+            if (current != null && current > version) {
+                return;
+            }
+            versions.put(taskId, version);
+            bitmaps.values().removeIf(bitmap -> {
+                bitmap.removeLong(taskId);
+                return bitmap.isEmpty();
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<TaskEntity> openTasks) {
+        Map<String, Roaring64Bitmap> rebuilt = new HashMap<>();
+        Map<Long, Long> rebuiltVersions = new HashMap<>();
+        for (TaskEntity task : openTasks) {
+            rebuiltVersions.put(task.getId(), versionOf(task));
+            for (String label : task.getLabels()) {
+                rebuilt.computeIfAbsent(label, l -> new Roaring64Bitmap()).addLong(task.getId());
+            }
+        }
+        rebuilt.values().forEach(Roaring64Bitmap::runOptimize);
+
+        lock.writeLock().lock();
+        try {
+            bitmaps.clear();
+            bitmaps.putAll(rebuilt);
+            versions.clear();
+            versions.putAll(rebuiltVersions);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} task IDs carrying all (or, with {@code matchAny}, any)
+     * of the given labels, highest ID first.
+     */
+    public List<Long> latest(Set<String> labels, boolean matchAny, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Roaring64Bitmap> selected = new ArrayList<>();
+            for (String label : labels) {
+                Roaring64Bitmap bitmap = bitmaps.get(label);
+                if (bitmap != null) {
+                    selected.add(bitmap);
+                } else if (!matchAny) {
+                    return List.of();
+                }
+            }
+            if (selected.isEmpty()) {
+                return List.of();
+            }
+            // Intersect smallest first so the working copy shrinks as early as possible
+            selected.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+            Roaring64Bitmap matches = selected.getFirst().clone();
+            for (Roaring64Bitmap bitmap : selected.subList(1, selected.size())) {
+                if (matchAny) {
+                    matches.or(bitmap);
+                } else {
+                    matches.and(bitmap);
+                }
+            }
+
+            List<Long> ids = new ArrayList<>(limit);
+            LongIterator it = matches.getReverseLongIterator();
+            while (it.hasNext() && ids.size() < limit) {
+                ids.add(it.next());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
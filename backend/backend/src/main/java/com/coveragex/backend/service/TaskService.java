@@ -1,34 +1,95 @@
 package com.coveragex.backend.service;
 
+import com.coveragex.backend.dto.LabelMatch;
 import com.coveragex.backend.dto.Task;
 import com.coveragex.backend.entity.TaskEntity;
+import com.coveragex.backend.monitoring.TaskMappingEvent;
+import com.coveragex.backend.monitoring.TaskQueryEvent;
 import com.coveragex.backend.repository.TaskRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-public class TaskService {
+public class TaskService implements SmartInitializingSingleton {
+
+    private static final int FEED_SIZE = 5;
+    private static final int MAX_PAGE_ATTEMPTS = 3;
 
     private final TaskRepository repo;
     private final ModelMapper mapper;
+    private final TaskLabelIndex labelIndex;
 
+    /**
+     * Latest open tasks. The row query is limited and never joins labels; the labels of
+     * the returned page are then loaded in one batched query inside the same transaction.
+     */
+    @Transactional(readOnly = true)
     public List<Task> getLatestFive() {
-        List<TaskEntity> entities = repo.findTop5ByCreated();
-        return entities.stream().map(e -> mapper.map(e, Task.class)).collect(Collectors.toList());
+        return toDtos(timedQuery("findTop5ByCompletedFalseOrderByCreatedAtDesc", () -> {
+            List<TaskEntity> entities = repo.findTop5ByCompletedFalseOrderByCreatedAtDesc();
+            if (!entities.isEmpty()) {
+                Hibernate.initialize(entities.getFirst().getLabels());
+            }
+            return entities;
+        }));
+    }
+
+    /**
+     * Latest open tasks carrying all or any of {@code labels}. Candidate IDs come from the
+     * label index; the page query re-checks completion and labels, and any candidate it
+     * rejects is re-synced from the database before the next candidates are fetched.
+     */
+    public List<Task> getLatestFiveByLabels(Set<String> labels, LabelMatch match) {
+        Set<String> normalized = TaskLabelIndex.normalize(labels);
+        if (normalized.isEmpty()) {
+            return getLatestFive();
+        }
+        boolean matchAny = match == LabelMatch.ANY;
+        long required = matchAny ? 1 : normalized.size();
+
+        List<TaskEntity> entities = List.of();
+        for (int attempt = 0; attempt < MAX_PAGE_ATTEMPTS; attempt++) {
+            List<Long> ids = labelIndex.latest(normalized, matchAny, FEED_SIZE);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            entities = timedQuery("findOpenByIdInWithLabels",
+                    () -> repo.findOpenByIdInWithLabels(ids, normalized, required));
+            if (entities.size() == ids.size()) {
+                break;
+            }
+            Set<Long> found = entities.stream().map(TaskEntity::getId).collect(Collectors.toSet());
+            resync(ids.stream().filter(id -> !found.contains(id)).toList());
+        }
+        return toDtos(entities);
     }
 
+    @Transactional
     public Task createTask(Task task) {
         TaskEntity entity = mapper.map(task, TaskEntity.class);
         entity.setCreatedAt(LocalDateTime.now());
+        entity.setLabels(TaskLabelIndex.normalize(task.getLabels()));
         TaskEntity saved = repo.save(entity);
+        if (!saved.getCompleted()) {
+            Set<String> labels = Set.copyOf(saved.getLabels());
+            afterCommit(() -> labelIndex.put(saved.getId(), TaskLabelIndex.versionOf(saved), labels));
+        }
         return mapper.map(saved, Task.class);
     }
 
@@ -37,6 +98,86 @@ public class TaskService {
         TaskEntity t = repo.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found"));
         t.setCompleted(true);
-        repo.save(t);
+        TaskEntity saved = repo.saveAndFlush(t);
+        long version = TaskLabelIndex.versionOf(saved);
+        afterCommit(() -> labelIndex.remove(id, version));
+    }
+
+    @Transactional
+    public Task relabel(Long id, Set<String> labels) {
+        TaskEntity t = repo.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found"));
+        t.setLabels(TaskLabelIndex.normalize(labels));
+        TaskEntity saved = repo.saveAndFlush(t);
+        if (!saved.getCompleted()) {
+            Set<String> committed = Set.copyOf(saved.getLabels());
+            long version = TaskLabelIndex.versionOf(saved);
+            afterCommit(() -> labelIndex.put(id, version, committed));
+        }
+        return mapper.map(saved, Task.class);
+    }
+
+    /**
+     * Builds the label index once all singletons exist, which is before the web
+     * server starts taking requests, so no write can race the initial load.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        labelIndex.rebuild(repo.findByCompletedFalse());
+    }
+
+    private void resync(List<Long> ids) {
+        Map<Long, TaskEntity> current = repo.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+        for (Long id : ids) {
+            TaskEntity t = current.get(id);
+            if (t == null) {
+                // IDENTITY keys are never reused, so a deleted task can be tombstoned for good
+                labelIndex.remove(id, Long.MAX_VALUE);
+            } else if (t.getCompleted()) {
+                labelIndex.remove(id, TaskLabelIndex.versionOf(t));
+            } else {
+                labelIndex.put(id, TaskLabelIndex.versionOf(t), t.getLabels());
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private List<TaskEntity> timedQuery(String name, Supplier<List<TaskEntity>> call) {
+        TaskQueryEvent query = new TaskQueryEvent();
+        query.begin();
+        List<TaskEntity> entities = call.get();
+        query.end();
+        if (query.shouldCommit()) {
+            query.setQuery(name);
+            query.setRowCount(entities.size());
+            query.commit();
+        }
+        return entities;
+    }
+
+    private List<Task> toDtos(List<TaskEntity> entities) {
+        TaskMappingEvent mapping = new TaskMappingEvent();
+        mapping.begin();
+        List<Task> tasks = entities.stream().map(e -> mapper.map(e, Task.class)).collect(Collectors.toList());
+        mapping.end();
+        if (mapping.shouldCommit()) {
+            mapping.setDirection("TaskEntity->Task");
+            mapping.setTaskCount(tasks.size());
+            mapping.commit();
+        }
+        return tasks;
     }
 }
@@ -153,5 +153,20 @@ class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].completed", is(false)));
     }
 
+    @Test
+    void latestFive_EmptyLabelFiltersReturnFullFeed() throws Exception {
+        TaskEntity task = new TaskEntity();
+        task.setTitle("Unlabelled Task");
+        task.setCompleted(false);
+        task.setCreatedAt(LocalDateTime.now());
+        taskRepository.save(task);
 
+        mockMvc.perform(get("/api/tasks").param("labels", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        mockMvc.perform(get("/api/tasks").param("labels", ","))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
 }
@@ -1,5 +1,6 @@
 package com.coveragex.backend.controller;
 
+import com.coveragex.backend.dto.LabelMatch;
 import com.coveragex.backend.dto.Task;
 import com.coveragex.backend.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,10 +12,12 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -109,4 +112,49 @@ class TaskControllerTest {
         verify(taskService, times(1)).getLatestFive();
     }
 
+    @Test
+    void latestFive_withLabels() throws Exception {
+        // Arrange
+        when(taskService.getLatestFiveByLabels(Set.of("team-a", "high"), LabelMatch.ANY)).thenReturn(List.of(task2));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                        .param("labels", "team-a,high")
+                        .param("match", "any")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(2)));
+
+        verify(taskService, times(1)).getLatestFiveByLabels(Set.of("team-a", "high"), LabelMatch.ANY);
+        verify(taskService, never()).getLatestFive();
+    }
+
+    @Test
+    void latestFive_rejectsUnknownMatch() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                        .param("labels", "team-a")
+                        .param("match", "anyy")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void relabel() throws Exception {
+        // Arrange
+        task1.setLabels(Set.of("team-a"));
+        when(taskService.relabel(eq(1L), any())).thenReturn(task1);
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/{id}/labels", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"team-a\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.labels[0]", is("team-a")));
+
+        verify(taskService, times(1)).relabel(1L, Set.of("team-a"));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.coveragex.backend.monitoring;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrSummaryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void summarise_groupsEventsPerPhase() throws Exception {
+        Path file = tempDir.resolve("tasks.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(TaskRequestEvent.class);
+            recording.enable(TaskQueryEvent.class);
+            recording.enable(TaskMappingEvent.class);
+            recording.enable(TaskSerializationEvent.class);
+            recording.start();
+
+            for (int i = 0; i < 3; i++) {
+                TaskQueryEvent query = new TaskQueryEvent();
+                query.begin();
+                query.setQuery("findTop5ByCompletedFalseOrderByCreatedAtDesc");
+                query.setRowCount(5);
+                query.commit();
+
+                TaskMappingEvent mapping = new TaskMappingEvent();
+                mapping.begin();
+                mapping.setTaskCount(5);
+                mapping.commit();
+
+                TaskSerializationEvent serialization = new TaskSerializationEvent();
+                serialization.begin();
+                serialization.setBodyType("ArrayList");
+                serialization.setTaskCount(5);
+                serialization.commit();
+
+                TaskRequestEvent request = new TaskRequestEvent();
+                request.begin();
+                request.setMethod("GET");
+                request.setPath("/api/tasks");
+                request.setStatus(200);
+                request.setTaskCount(5);
+                request.commit();
+            }
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, JfrSummary.PhaseStats> summary = JfrSummary.summarise(file);
+
+        assertEquals(3, summary.get(TaskRequestEvent.NAME).count());
+        assertEquals(3, summary.get(TaskQueryEvent.NAME).count());
+        assertEquals(3, summary.get(TaskMappingEvent.NAME).count());
+        assertEquals(3, summary.get(TaskSerializationEvent.NAME).count());
+        assertEquals(5.0, summary.get(TaskQueryEvent.NAME).avgItems());
+        assertEquals(5.0, summary.get(TaskMappingEvent.NAME).avgItems());
+        assertEquals(5.0, summary.get(TaskSerializationEvent.NAME).avgItems());
+    }
+}
@@ -0,0 +1,98 @@
+package com.coveragex.backend.monitoring;
+
+import com.coveragex.backend.entity.TaskEntity;
+import com.coveragex.backend.repository.TaskRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc
+class TaskEventsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        for (int i = 1; i <= 3; i++) {
+            TaskEntity e = new TaskEntity();
+            e.setTitle("t" + i);
+            e.setCompleted(false);
+            e.setCreatedAt(LocalDateTime.now().minusDays(i));
+            taskRepository.save(e);
+        }
+    }
+
+    @Test
+    void latestFive_commitsEventForEveryPhase() throws Exception {
+        Path file = tempDir.resolve("tasks.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(TaskRequestEvent.class);
+            recording.enable(TaskQueryEvent.class);
+            recording.enable(TaskMappingEvent.class);
+            recording.enable(TaskSerializationEvent.class);
+            recording.start();
+
+            mockMvc.perform(get("/api/tasks")).andExpect(status().isOk());
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, List<RecordedEvent>> events = RecordingFile.readAllEvents(file).stream()
+                .collect(Collectors.groupingBy(e -> e.getEventType().getName()));
+
+        RecordedEvent request = single(events, TaskRequestEvent.NAME);
+        assertEquals("GET", request.getString("method"));
+        assertEquals("/api/tasks", request.getString("path"));
+        assertEquals(200, request.getInt("status"));
+        assertEquals(3, request.getInt("taskCount"));
+
+        RecordedEvent query = single(events, TaskQueryEvent.NAME);
+        assertEquals("findTop5ByCompletedFalseOrderByCreatedAtDesc", query.getString("query"));
+        assertEquals(3, query.getInt("rowCount"));
+
+        RecordedEvent mapping = single(events, TaskMappingEvent.NAME);
+        assertEquals(3, mapping.getInt("taskCount"));
+
+        RecordedEvent serialization = single(events, TaskSerializationEvent.NAME);
+        assertEquals(3, serialization.getInt("taskCount"));
+        assertFalse(serialization.getStartTime().isBefore(mapping.getEndTime()),
+                "serialization should start after mapping has finished");
+        assertFalse(serialization.getEndTime().isAfter(request.getEndTime()),
+                "serialization should end within the request");
+    }
+
+    private static RecordedEvent single(Map<String, List<RecordedEvent>> events, String name) {
+        List<RecordedEvent> matching = events.getOrDefault(name, List.of());
+        assertEquals(1, matching.size(), "expected exactly one " + name + " event");
+        return matching.getFirst();
+    }
+}
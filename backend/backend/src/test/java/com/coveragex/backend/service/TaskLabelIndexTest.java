@@ -0,0 +1,113 @@
+package com.coveragex.backend.service;
+
+import com.coveragex.backend.entity.TaskEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskLabelIndexTest {
+
+    private TaskLabelIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskLabelIndex();
+        index.put(1L, 0L, Set.of("team-a", "high"));
+        index.put(2L, 0L, Set.of("team-a"));
+        index.put(3L, 0L, Set.of("team-b", "high"));
+        index.put(4L, 0L, Set.of("team-a", "high"));
+    }
+
+    @Test
+    void normalize_trimsLowercasesAndDropsBlanks() {
+        assertEquals(Set.of("team-a", "high"), TaskLabelIndex.normalize(Arrays.asList(" Team-A ", "HIGH", "", null)));
+        assertTrue(TaskLabelIndex.normalize(null).isEmpty());
+    }
+
+    @Test
+    void latest_matchAll_intersectsLabels() {
+        assertEquals(List.of(4L, 1L), index.latest(Set.of("team-a", "high"), false, 5));
+    }
+
+    @Test
+    void latest_matchAny_unionsLabels() {
+        assertEquals(List.of(4L, 3L, 2L, 1L), index.latest(Set.of("team-a", "team-b"), true, 5));
+    }
+
+    @Test
+    void latest_limitsToNewestIds() {
+        assertEquals(List.of(4L, 3L), index.latest(Set.of("team-a", "team-b"), true, 2));
+    }
+
+    @Test
+    void latest_unknownLabel() {
+        assertTrue(index.latest(Set.of("team-a", "unknown"), false, 5).isEmpty());
+        assertEquals(List.of(3L), index.latest(Set.of("team-b", "unknown"), true, 5));
+    }
+
+    @Test
+    void remove_dropsTaskFromEveryLabel() {
+        index.remove(4L, 1L);
+
+        assertEquals(List.of(1L), index.latest(Set.of("team-a", "high"), false, 5));
+        assertEquals(List.of(2L, 1L), index.latest(Set.of("team-a"), false, 5));
+    }
+
+    @Test
+    void put_replacesTaskLabels() {
+        index.put(2L, 1L, Set.of("team-b"));
+
+        assertEquals(List.of(4L, 1L), index.latest(Set.of("team-a"), false, 5));
+        assertEquals(List.of(3L, 2L), index.latest(Set.of("team-b"), false, 5));
+    }
+
+    @Test
+    void put_ignoresOlderVersion() {
+        index.put(2L, 2L, Set.of("team-b"));
+        index.put(2L, 1L, Set.of("team-a"));
+
+        assertEquals(List.of(4L, 1L), index.latest(Set.of("team-a"), false, 5));
+        assertEquals(List.of(3L, 2L), index.latest(Set.of("team-b"), false, 5));
+    }
+
+    @Test
+    void put_withOlderVersionAfterRemove_doesNotReaddTask() {
+        index.put(2L, 1L, Set.of("team-a"));
+        index.remove(2L, 2L);
+        index.put(2L, 1L, Set.of("team-a"));
+
+        assertEquals(List.of(4L, 1L), index.latest(Set.of("team-a"), false, 5));
+    }
+
+    @Test
+    void remove_withOlderVersion_keepsNewerLabels() {
+        index.put(2L, 3L, Set.of("team-b"));
+        index.remove(2L, 2L);
+
+        assertEquals(List.of(3L, 2L), index.latest(Set.of("team-b"), false, 5));
+    }
+
+    @Test
+    void put_acceptsIdsBeyondIntRange() {
+        long id = Integer.MAX_VALUE + 10L;
+        index.put(id, 0L, Set.of("team-a"));
+
+        assertEquals(List.of(id, 4L), index.latest(Set.of("team-a"), false, 2));
+    }
+
+    @Test
+    void rebuild_replacesIndexContents() {
+        TaskEntity task = new TaskEntity();
+        task.setId(7L);
+        task.setLabels(Set.of("team-c"));
+        index.rebuild(List.of(task));
+
+        assertTrue(index.latest(Set.of("team-a"), false, 5).isEmpty());
+        assertEquals(List.of(7L), index.latest(Set.of("team-c"), false, 5));
+    }
+}
@@ -1,5 +1,6 @@
 package com.coveragex.backend.service;
 
+import com.coveragex.backend.dto.LabelMatch;
 import com.coveragex.backend.dto.Task;
 import com.coveragex.backend.entity.TaskEntity;
 import com.coveragex.backend.repository.TaskRepository;
@@ -8,9 +9,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,9 +27,16 @@ class TaskServiceIntegrationTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskLabelIndex labelIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @BeforeEach
     void setup() {
         taskRepository.deleteAll();
+        labelIndex.rebuild(List.of());
     }
 
     @Test
@@ -62,6 +73,23 @@ class TaskServiceIntegrationTest {
  
     }
 
+    @Test
+    void getLatestFive_limitsToFiveAndLoadsLabels() {
+        for (int i = 1; i <= 7; i++) {
+            TaskEntity e = new TaskEntity();
+            e.setTitle("t" + i);
+            e.setCompleted(false);
+            e.setCreatedAt(LocalDateTime.now().minusDays(7 - i));
+            e.setLabels(Set.of("team-a", "n" + i));
+            taskRepository.save(e);
+        }
+
+        List<Task> latest = taskService.getLatestFive();
+
+        assertEquals(List.of("t7", "t6", "t5", "t4", "t3"), latest.stream().map(Task::getTitle).toList());
+        assertEquals(Set.of("team-a", "n7"), latest.getFirst().getLabels());
+    }
+
     @Test
     void markDone_setsCompletedTrue() {
         Task t = new Task();
@@ -74,4 +102,67 @@ class TaskServiceIntegrationTest {
         TaskEntity entity = taskRepository.findById(created.getId()).orElseThrow();
         assertTrue(entity.getCompleted(), "markDone should set completed to true");
     }
+
+    @Test
+    void getLatestFiveByLabels_filtersOpenTasksByLabels() {
+        Task a = labelled("a", "team-a", "high");
+        Task b = labelled("b", "team-a");
+        Task c = labelled("c", "team-b", "high");
+        taskService.markDone(a.getId());
+
+        List<Task> teamA = taskService.getLatestFiveByLabels(Set.of("team-a"), LabelMatch.ALL);
+        assertEquals(List.of(b.getId()), teamA.stream().map(Task::getId).toList());
+
+        List<Task> high = taskService.getLatestFiveByLabels(Set.of("team-a", "high"), LabelMatch.ANY);
+        assertEquals(Set.of(b.getId(), c.getId()), high.stream().map(Task::getId).collect(Collectors.toSet()));
+
+        taskService.relabel(c.getId(), Set.of("team-a"));
+        assertEquals(2, taskService.getLatestFiveByLabels(Set.of("team-a"), LabelMatch.ALL).size());
+        assertTrue(taskService.getLatestFiveByLabels(Set.of("high"), LabelMatch.ALL).isEmpty());
+    }
+
+    @Test
+    void relabel_rolledBack_leavesIndexUntouched() {
+        Task t = labelled("rollback", "high");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.relabel(t.getId(), Set.of("low"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(Set.of("high"), taskRepository.findByIdIn(List.of(t.getId())).getFirst().getLabels());
+        assertTrue(labelIndex.latest(Set.of("low"), false, 5).isEmpty());
+        assertEquals(List.of(t.getId()),
+                taskService.getLatestFiveByLabels(Set.of("high"), LabelMatch.ALL).stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void markDone_rolledBack_keepsTaskIndexed() {
+        Task t = labelled("rollback", "high");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.markDone(t.getId());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(List.of(t.getId()),
+                taskService.getLatestFiveByLabels(Set.of("high"), LabelMatch.ALL).stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void getLatestFiveByLabels_skipsStaleIndexEntries() {
+        Task t = labelled("stale", "high");
+        labelIndex.put(t.getId(), 0L, Set.of("low"));
+
+        assertTrue(taskService.getLatestFiveByLabels(Set.of("low"), LabelMatch.ALL).isEmpty());
+        assertTrue(labelIndex.latest(Set.of("low"), false, 5).isEmpty(), "rejected candidate should be re-synced");
+        assertEquals(List.of(t.getId()), labelIndex.latest(Set.of("high"), false, 5));
+    }
+
+    private Task labelled(String title, String... labels) {
+        Task t = new Task();
+        t.setTitle(title);
+        t.setLabels(Set.of(labels));
+        return taskService.createTask(t);
+    }
 }
@@ -1,5 +1,6 @@
 package com.coveragex.backend.service;
 
+import com.coveragex.backend.dto.LabelMatch;
 import com.coveragex.backend.dto.Task;
 import com.coveragex.backend.entity.TaskEntity;
 import com.coveragex.backend.repository.TaskRepository;
@@ -15,9 +16,11 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +33,9 @@ class TaskServiceTest {
     @Mock
     private ModelMapper mapper;
 
+    @Mock
+    private TaskLabelIndex labelIndex;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -72,7 +78,7 @@ class TaskServiceTest {
     void getLatestFive() {
         // Arrange
         List<TaskEntity> entities = Arrays.asList(taskEntity1, taskEntity2);
-        when(repo.findTop5ByCreated()).thenReturn(entities);
+        when(repo.findTop5ByCompletedFalseOrderByCreatedAtDesc()).thenReturn(entities);
         when(mapper.map(taskEntity1, Task.class)).thenReturn(taskDto1);
         when(mapper.map(taskEntity2, Task.class)).thenReturn(taskDto2);
 
@@ -87,7 +93,7 @@ class TaskServiceTest {
         assertFalse(result.get(0).getCompleted());
         assertFalse(result.get(1).getCompleted());
 
-        verify(repo, times(1)).findTop5ByCreated();
+        verify(repo, times(1)).findTop5ByCompletedFalseOrderByCreatedAtDesc();
         verify(mapper, times(2)).map(any(TaskEntity.class), eq(Task.class));
     }
 
@@ -136,6 +142,7 @@ class TaskServiceTest {
         verify(mapper, times(1)).map(inputTask, TaskEntity.class);
         verify(repo, times(1)).save(any(TaskEntity.class));
         verify(mapper, times(1)).map(savedEntity, Task.class);
+        verify(labelIndex, times(1)).put(3L, 0L, savedEntity.getLabels());
     }
 
     @Test
@@ -150,14 +157,87 @@ class TaskServiceTest {
         existingTask.setCreatedAt(LocalDateTime.now().minusDays(1));
 
         when(repo.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(repo.save(any(TaskEntity.class))).thenReturn(existingTask);
+        when(repo.saveAndFlush(existingTask)).thenReturn(existingTask);
 
         taskService.markDone(taskId);
 
         // Assert
         assertTrue(existingTask.getCompleted(), "Task should be marked as completed");
         verify(repo, times(1)).findById(taskId);
-        verify(repo, times(1)).save(existingTask);
+        verify(repo, times(1)).saveAndFlush(existingTask);
+        verify(labelIndex, times(1)).remove(taskId, 0L);
+    }
+
+    @Test
+    void getLatestFiveByLabels() {
+        // Arrange
+        when(labelIndex.latest(Set.of("team-a"), false, 5)).thenReturn(List.of(2L, 1L));
+        when(repo.findOpenByIdInWithLabels(List.of(2L, 1L), Set.of("team-a"), 1L))
+                .thenReturn(Arrays.asList(taskEntity2, taskEntity1));
+        when(mapper.map(taskEntity1, Task.class)).thenReturn(taskDto1);
+        when(mapper.map(taskEntity2, Task.class)).thenReturn(taskDto2);
+
+        // Act
+        List<Task> result = taskService.getLatestFiveByLabels(Set.of(" Team-A "), LabelMatch.ALL);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("Test Task 2", result.get(0).getTitle());
+        assertEquals("Test Task 1", result.get(1).getTitle());
+        verify(repo, never()).findTop5ByCompletedFalseOrderByCreatedAtDesc();
+        verify(labelIndex, never()).remove(anyLong(), anyLong());
+    }
+
+    @Test
+    void getLatestFiveByLabels_emptyLabelsReturnsUnfilteredFeed() {
+        // Arrange
+        when(repo.findTop5ByCompletedFalseOrderByCreatedAtDesc()).thenReturn(List.of(taskEntity1));
+        when(mapper.map(taskEntity1, Task.class)).thenReturn(taskDto1);
+
+        // Act
+        List<Task> result = taskService.getLatestFiveByLabels(Set.of("", " "), LabelMatch.ALL);
+
+        // Assert
+        assertEquals(1, result.size());
+        verifyNoInteractions(labelIndex);
+    }
+
+    @Test
+    void getLatestFiveByLabels_resyncsRejectedCandidates() {
+        // Arrange: index says 9 and 1 carry team-a, DB says 9 is gone and 1 now only carries team-b
+        taskEntity1.setLabels(Set.of("team-b"));
+        when(labelIndex.latest(Set.of("team-a"), false, 5))
+                .thenReturn(List.of(9L, 2L, 1L))
+                .thenReturn(List.of(2L));
+        when(repo.findOpenByIdInWithLabels(List.of(9L, 2L, 1L), Set.of("team-a"), 1L)).thenReturn(List.of(taskEntity2));
+        when(repo.findByIdIn(List.of(9L, 1L))).thenReturn(List.of(taskEntity1));
+        when(repo.findOpenByIdInWithLabels(List.of(2L), Set.of("team-a"), 1L)).thenReturn(List.of(taskEntity2));
+        when(mapper.map(taskEntity2, Task.class)).thenReturn(taskDto2);
+
+        // Act
+        List<Task> result = taskService.getLatestFiveByLabels(Set.of("team-a"), LabelMatch.ALL);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(2L, result.get(0).getId());
+        verify(labelIndex, times(1)).remove(9L, Long.MAX_VALUE);
+        verify(labelIndex, times(1)).put(1L, 0L, Set.of("team-b"));
+        verify(labelIndex, never()).remove(eq(1L), anyLong());
+    }
+
+    @Test
+    void relabel() {
+        // Arrange
+        when(repo.findById(1L)).thenReturn(Optional.of(taskEntity1));
+        when(repo.saveAndFlush(taskEntity1)).thenReturn(taskEntity1);
+        when(mapper.map(taskEntity1, Task.class)).thenReturn(taskDto1);
+
+        // Act
+        taskService.relabel(1L, Set.of("Team-A", "high"));
+
+        // Assert
+        assertEquals(Set.of("team-a", "high"), taskEntity1.getLabels());
+        verify(labelIndex, times(1)).put(1L, 0L, Set.of("team-a", "high"));
     }
 
 }
\ No newline at end of file